@@ -0,0 +1,33 @@
+package bank.account.config;
+
+import bank.account.integration.KafkaPublisher;
+import bank.observability.FirstRequestMetrics;
+import org.axonframework.commandhandling.CommandBus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps Axon infrastructure, event handlers and the Kafka publisher eager under the `fast-startup`
+ * profile's lazy initialization (deferred handlers would never subscribe), and records the first command.
+ */
+@Configuration
+public class StartupConfig {
+
+  @Bean
+  static LazyInitializationExcludeFilter eagerAxonInfrastructure() {
+    return (beanName, definition, beanType) -> beanType != null
+        && (beanType.getName().startsWith("org.axonframework.")
+            || beanType == KafkaPublisher.class
+            || beanType == StartupConfig.class);
+  }
+
+  @Autowired
+  public void recordFirstCommand(CommandBus commandBus, FirstRequestMetrics firstRequest) {
+    commandBus.registerHandlerInterceptor((unitOfWork, chain) -> {
+      firstRequest.record("command");
+      return chain.proceed();
+    });
+  }
+}
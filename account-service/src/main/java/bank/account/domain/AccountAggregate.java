@@ -1,7 +1,10 @@
 package bank.account.domain;
 
+import bank.account.domain.commands.CreditAccountCommand;
 import bank.account.domain.commands.DebitAccountCommand;
+import bank.account.domain.events.AccountCreditedEvent;
 import bank.account.domain.events.AccountDebitedEvent;
+import org.axonframework.commandhandling.CommandExecutionException;
 import org.axonframework.commandhandling.CommandHandler;
 import org.axonframework.eventsourcing.EventSourcingHandler;
 import org.axonframework.modelling.command.AggregateIdentifier;
@@ -32,8 +35,14 @@ public class AccountAggregate {
   public void handle(DebitAccountCommand cmd) {
     if (processed.contains(cmd.commandId)) return; // idempotent
 
+    if (cmd.amount <= 0) {
+      // transfer-api rejects these already; a non-positive debit would otherwise raise the balance.
+      throw new CommandExecutionException("INVALID_AMOUNT", null, "INVALID_AMOUNT");
+    }
+
     if (balance < cmd.amount) {
-      throw new IllegalStateException("INSUFFICIENT_BALANCE");
+      // Details travel through AxonServer, so the worker can classify this as a business failure.
+      throw new CommandExecutionException("INSUFFICIENT_BALANCE", null, "INSUFFICIENT_BALANCE");
     }
 
     AggregateLifecycle.apply(new AccountDebitedEvent(
@@ -41,10 +50,26 @@ public class AccountAggregate {
     ));
   }
 
+  @CommandHandler
+  public void handle(CreditAccountCommand cmd) {
+    // Compensation for a debit whose ledger booking failed.
+    if (processed.contains(cmd.commandId)) return; // idempotent
+
+    AggregateLifecycle.apply(new AccountCreditedEvent(
+        cmd.accountId, cmd.amount, cmd.commandId, cmd.correlationId, cmd.transferId
+    ));
+  }
+
   @EventSourcingHandler
   public void on(AccountDebitedEvent evt) {
     this.accountId = evt.accountId;
     this.balance -= evt.amount;
     this.processed.add(evt.commandId);
   }
+
+  @EventSourcingHandler
+  public void on(AccountCreditedEvent evt) {
+    this.balance += evt.amount;
+    this.processed.add(evt.commandId);
+  }
 }
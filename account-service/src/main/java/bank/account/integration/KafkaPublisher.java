@@ -1,25 +1,51 @@
 package bank.account.integration;
 
+import bank.account.domain.events.AccountCreditedEvent;
 import bank.account.domain.events.AccountDebitedEvent;
-import io.micrometer.core.instrument.MeterRegistry;
+import bank.observability.DomainMetrics;
+import io.micrometer.core.instrument.Counter;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
 import org.axonframework.eventhandling.EventHandler;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Publishes debits and credits to one topic, keyed by account so they stay ordered per account. The payloads
+ * have the same shape and carry no type info header, so the `eventType` header (`AccountDebited` /
+ * `AccountCredited`) tells them apart.
+ */
 @Component
 public class KafkaPublisher {
 
+  private static final String TOPIC = "account.events.v1";
+  private static final String EVENT_TYPE_HEADER = "eventType";
+
   private final KafkaTemplate<String, Object> kafkaTemplate;
-  private final MeterRegistry registry;
+  private final Counter published;
 
-  public KafkaPublisher(KafkaTemplate<String, Object> kafkaTemplate, MeterRegistry registry) {
+  public KafkaPublisher(KafkaTemplate<String, Object> kafkaTemplate, DomainMetrics metrics) {
     this.kafkaTemplate = kafkaTemplate;
-    this.registry = registry;
+    // Registered once per topic; the per-event cost is a single increment.
+    this.published = metrics.counter("domain.integration.event.published", "service", "account", "topic", TOPIC);
   }
 
   @EventHandler
   public void on(AccountDebitedEvent evt) {
-    kafkaTemplate.send("account.events.v1", evt.accountId, evt);
-    registry.counter("domain.integration.event.published", "service", "account", "topic", "account.events.v1").increment();
+    send(evt.accountId, "AccountDebited", evt);
+  }
+
+  @EventHandler
+  public void on(AccountCreditedEvent evt) {
+    send(evt.accountId, "AccountCredited", evt);
+  }
+
+  private void send(String accountId, String eventType, Object evt) {
+    ProducerRecord<String, Object> record = new ProducerRecord<>(TOPIC, accountId, evt);
+    record.headers().add(new RecordHeader(EVENT_TYPE_HEADER, eventType.getBytes(StandardCharsets.UTF_8)));
+    kafkaTemplate.send(record);
+    published.increment();
   }
 }
@@ -0,0 +1,59 @@
+package bank.connectivity;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.axonframework.axonserver.connector.AxonServerConfiguration;
+import org.axonframework.axonserver.connector.AxonServerConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * AxonServer client state next to the settings it runs with.
+ *
+ * The connector already binds `axon.axonserver.*` (servers, keep-alive, command/query threads, permits);
+ * this publishes them as `clients.axonserver.setting{name}` so a dashboard shows what a pod actually uses,
+ * plus `clients.axonserver.connected{context}` (1/0).
+ *
+ * Settings are the configured values only, not pool usage: Axon's auto-configuration builds the command and
+ * query buses without an ExecutorServiceBuilder hook, so their executors are not instrumented.
+ */
+public class AxonServerConnectionMetrics implements MeterBinder {
+
+  private final ObjectProvider<AxonServerConnectionManager> connectionManager;
+  private final AxonServerConfiguration config;
+
+  public AxonServerConnectionMetrics(ObjectProvider<AxonServerConnectionManager> connectionManager,
+                                     AxonServerConfiguration config) {
+    this.connectionManager = connectionManager;
+    this.config = config;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    String context = config.getContext();
+    // Resolved per scrape: the manager is created after the registry with lazy initialization.
+    Gauge.builder("clients.axonserver.connected", connectionManager, p -> {
+          AxonServerConnectionManager m = p.getIfAvailable();
+          return m != null && m.isConnected(context) ? 1 : 0;
+        })
+        .tag("context", context)
+        .register(registry);
+
+    setting(registry, "command.threads", config.getCommandThreads());
+    setting(registry, "query.threads", config.getQueryThreads());
+    setting(registry, "permits", config.getPermits());
+    setting(registry, "initial.permits", config.getInitialNrOfPermits());
+    setting(registry, "keepalive.time.ms", config.getKeepAliveTime());
+    setting(registry, "keepalive.timeout.ms", config.getKeepAliveTimeout());
+    setting(registry, "max.message.size", config.getMaxMessageSize());
+  }
+
+  private static void setting(MeterRegistry registry, String name, Number value) {
+    if (value == null) return;
+    // Strong reference: gauges hold their state weakly and a boxed setting would be collected.
+    Gauge.builder("clients.axonserver.setting", value, Number::doubleValue)
+        .tag("name", name)
+        .strongReference(true)
+        .register(registry);
+  }
+}
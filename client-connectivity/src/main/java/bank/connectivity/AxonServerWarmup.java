@@ -0,0 +1,28 @@
+package bank.connectivity;
+
+import io.axoniq.axonserver.connector.AxonServerConnection;
+import org.axonframework.axonserver.connector.AxonServerConnectionManager;
+
+import java.time.Duration;
+
+/** Warm-up step for Axon services: opens the AxonServer gRPC connection and waits until it is up. */
+public final class AxonServerWarmup {
+
+  private AxonServerWarmup() {}
+
+  public static void awaitConnected(AxonServerConnectionManager connectionManager, Duration timeout) {
+    AxonServerConnection connection = connectionManager.getConnection();
+    long deadline = System.nanoTime() + timeout.toNanos();
+    while (!connection.isConnected()) {
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException("AXONSERVER_NOT_CONNECTED");
+      }
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+}
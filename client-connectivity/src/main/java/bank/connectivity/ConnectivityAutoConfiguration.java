@@ -0,0 +1,58 @@
+package bank.connectivity;
+
+import bank.observability.DomainMetrics;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.axonframework.axonserver.connector.AxonServerConfiguration;
+import org.axonframework.axonserver.connector.AxonServerConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Client connection tuning for services that have this jar on the classpath.
+ *
+ * Zeebe: {@link ZeebeGatewayRouter} when `clients.zeebe.gateways` is set (see {@link ZeebeGatewayProperties}).
+ * AxonServer: {@link AxonServerConnectionMetrics} whenever the connector is present.
+ */
+@AutoConfiguration(
+    after = bank.observability.ObservabilityAutoConfiguration.class,
+    afterName = "org.axonframework.springboot.autoconfig.AxonServerAutoConfiguration")
+@ConditionalOnClass(MeterRegistry.class)
+public class ConnectivityAutoConfiguration {
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(GatewayGrpc.class)
+  @ConditionalOnProperty(prefix = "clients.zeebe", name = "gateways")
+  @EnableConfigurationProperties(ZeebeGatewayProperties.class)
+  static class ZeebeGatewayConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public ZeebeGatewayRouter zeebeGatewayRouter(ZeebeGatewayProperties props,
+                                                 DomainMetrics metrics,
+                                                 MeterRegistry registry) {
+      return new ZeebeGatewayRouter(props, metrics, registry);
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(AxonServerConnectionManager.class)
+  @ConditionalOnBean(AxonServerConfiguration.class)
+  static class AxonServerConfigurationMetrics {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AxonServerConnectionMetrics axonServerConnectionMetrics(
+        ObjectProvider<AxonServerConnectionManager> connectionManager,
+        AxonServerConfiguration config) {
+      return new AxonServerConnectionMetrics(connectionManager, config);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package bank.connectivity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * `clients.zeebe.*`: how the Zeebe client reaches the gateways.
+ *
+ * Setting `gateways` switches on {@link ZeebeGatewayRouter}; without it the client keeps its single
+ * `zeebe.client.broker.gateway-address` channel.
+ */
+@ConfigurationProperties(prefix = "clients.zeebe")
+public class ZeebeGatewayProperties {
+
+  /** host:port in preference order; calls go to the first healthy one. */
+  private List<String> gateways = new ArrayList<>();
+
+  /** Channels (TCP connections) per gateway; calls go to the one with the fewest in flight. */
+  private int channelsPerGateway = 2;
+
+  /**
+   * Soft cap on calls in flight per channel. The gateway's HTTP/2 MAX_CONCURRENT_STREAMS is the hard limit
+   * and is set server side; when every channel is past this, calls still go out and `saturated` is counted.
+   */
+  private int maxInFlightPerChannel = 100;
+
+  /** gRPC callback threads shared by all pooled channels; 0 keeps the gRPC default cached pool. */
+  private int executorThreads = 0;
+
+  private boolean plaintext = true;
+  private Duration keepAlive = Duration.ofSeconds(45);
+  private Duration keepAliveTimeout = Duration.ofSeconds(20);
+  private int maxMessageSize = 4 * 1024 * 1024;
+  /** Initial HTTP/2 flow-control window per stream, in bytes. */
+  private int flowControlWindow = 1024 * 1024;
+
+  /**
+   * Topology probe per gateway. A failed probe marks the gateway down, as does a call that could not reach it
+   * (UNAVAILABLE caused by an I/O error); an UNAVAILABLE answered by the gateway itself does not.
+   */
+  private Duration probeInterval = Duration.ofSeconds(5);
+  private Duration probeTimeout = Duration.ofSeconds(2);
+
+  public List<String> getGateways() {
+    return gateways;
+  }
+
+  public void setGateways(List<String> gateways) {
+    this.gateways = gateways;
+  }
+
+  public int getChannelsPerGateway() {
+    return channelsPerGateway;
+  }
+
+  public void setChannelsPerGateway(int channelsPerGateway) {
+    this.channelsPerGateway = channelsPerGateway;
+  }
+
+  public int getMaxInFlightPerChannel() {
+    return maxInFlightPerChannel;
+  }
+
+  public void setMaxInFlightPerChannel(int maxInFlightPerChannel) {
+    this.maxInFlightPerChannel = maxInFlightPerChannel;
+  }
+
+  public int getExecutorThreads() {
+    return executorThreads;
+  }
+
+  public void setExecutorThreads(int executorThreads) {
+    this.executorThreads = executorThreads;
+  }
+
+  public boolean isPlaintext() {
+    return plaintext;
+  }
+
+  public void setPlaintext(boolean plaintext) {
+    this.plaintext = plaintext;
+  }
+
+  public Duration getKeepAlive() {
+    return keepAlive;
+  }
+
+  public void setKeepAlive(Duration keepAlive) {
+    this.keepAlive = keepAlive;
+  }
+
+  public Duration getKeepAliveTimeout() {
+    return keepAliveTimeout;
+  }
+
+  public void setKeepAliveTimeout(Duration keepAliveTimeout) {
+    this.keepAliveTimeout = keepAliveTimeout;
+  }
+
+  public int getMaxMessageSize() {
+    return maxMessageSize;
+  }
+
+  public void setMaxMessageSize(int maxMessageSize) {
+    this.maxMessageSize = maxMessageSize;
+  }
+
+  public int getFlowControlWindow() {
+    return flowControlWindow;
+  }
+
+  public void setFlowControlWindow(int flowControlWindow) {
+    this.flowControlWindow = flowControlWindow;
+  }
+
+  public Duration getProbeInterval() {
+    return probeInterval;
+  }
+
+  public void setProbeInterval(Duration probeInterval) {
+    this.probeInterval = probeInterval;
+  }
+
+  public Duration getProbeTimeout() {
+    return probeTimeout;
+  }
+
+  public void setProbeTimeout(Duration probeTimeout) {
+    this.probeTimeout = probeTimeout;
+  }
+}
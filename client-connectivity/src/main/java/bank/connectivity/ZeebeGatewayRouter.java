@@ -0,0 +1,314 @@
+package bank.connectivity;
+
+import bank.observability.DomainMetrics;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.ClientCalls;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Routes every Zeebe client call to a pool of channels on the first healthy gateway.
+ *
+ * Registered as a {@link ClientInterceptor} bean, which the Zeebe Spring client adds to its stub. The
+ * interceptor never calls the client's own channel (so that one never connects) and instead:
+ * - keeps `channelsPerGateway` channels per gateway and picks the one with the fewest calls in flight,
+ *   so long-polling ActivateJobs / job streams do not queue behind one connection's HTTP/2 stream limit
+ * - probes each gateway with a Topology call every `probeInterval`; a failed probe or a call that could not
+ *   reach the gateway (UNAVAILABLE caused by an I/O error, e.g. connection refused) marks it down and traffic
+ *   moves to the next gateway in configured order, and back once it recovers. An UNAVAILABLE the gateway
+ *   itself returns (e.g. no partition leader during an election) is not the gateway's fault and is left
+ *   to the client's retries.
+ *
+ * Metrics (tag `gateway`): `clients.zeebe.gateway.healthy`, `clients.zeebe.gateway.active`,
+ * `clients.zeebe.channel.inflight`, `clients.zeebe.channel.saturated`, `clients.zeebe.call{method,status}`,
+ * plus `clients.zeebe.failover` and `executor*{name=zeebe.grpc}` when `executorThreads` is set.
+ */
+public class ZeebeGatewayRouter implements ClientInterceptor, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(ZeebeGatewayRouter.class);
+
+  private final List<Gateway> gateways = new ArrayList<>();
+  private final int maxInFlightPerChannel;
+  private final Duration probeTimeout;
+  private final ExecutorService callbackExecutor;
+  private final ScheduledExecutorService prober;
+  private final Counter failovers;
+  private volatile Gateway active;
+
+  public ZeebeGatewayRouter(ZeebeGatewayProperties props, DomainMetrics metrics, MeterRegistry registry) {
+    this(props, metrics, registry, (address, executor) -> nettyChannel(props, address, executor));
+  }
+
+  /** The channel factory is the seam for stand-in gateways. */
+  ZeebeGatewayRouter(ZeebeGatewayProperties props,
+                     DomainMetrics metrics,
+                     MeterRegistry registry,
+                     BiFunction<String, Executor, ManagedChannel> channelFactory) {
+    if (props.getGateways().isEmpty()) throw new IllegalArgumentException("NO_ZEEBE_GATEWAYS");
+    this.maxInFlightPerChannel = props.getMaxInFlightPerChannel();
+    this.probeTimeout = props.getProbeTimeout();
+    this.callbackExecutor = props.getExecutorThreads() > 0
+        ? ExecutorServiceMetrics.monitor(registry,
+            Executors.newFixedThreadPool(props.getExecutorThreads(), new NamedThreadFactory("zeebe-grpc-")),
+            "zeebe.grpc")
+        : null;
+    this.failovers = metrics.counter("clients.zeebe.failover");
+
+    for (String address : props.getGateways()) {
+      Gateway g = new Gateway(address.trim(), metrics);
+      for (int i = 0; i < Math.max(1, props.getChannelsPerGateway()); i++) {
+        g.lanes.add(new Lane(channelFactory.apply(g.address, callbackExecutor)));
+      }
+      Gauge.builder("clients.zeebe.gateway.healthy", g, x -> x.healthy ? 1 : 0)
+          .tag("gateway", g.address).register(registry);
+      Gauge.builder("clients.zeebe.gateway.active", g, x -> active == x ? 1 : 0)
+          .tag("gateway", g.address).register(registry);
+      Gauge.builder("clients.zeebe.channel.inflight", g, Gateway::inFlight)
+          .tag("gateway", g.address).register(registry);
+      gateways.add(g);
+    }
+    this.active = gateways.get(0);
+
+    this.prober = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("zeebe-gateway-probe-"));
+    // Gateways start out healthy; until the first probe an unreachable gateway is what moves traffic.
+    long interval = props.getProbeInterval().toMillis();
+    prober.scheduleWithFixedDelay(this::probeAll, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                             CallOptions callOptions,
+                                                             Channel next) {
+    Gateway gateway = active;
+    Lane lane = gateway.leastLoaded();
+    if (lane.inFlight.get() >= maxInFlightPerChannel) gateway.saturated.increment();
+    return new RoutedCall<>(lane.channel.newCall(method, callOptions), gateway, lane, method.getBareMethodName());
+  }
+
+  /** Gateway currently receiving calls. */
+  public String activeGateway() {
+    return active.address;
+  }
+
+  private void probeAll() {
+    for (Gateway g : gateways) {
+      boolean up;
+      try {
+        // waitForReady: the probe may spend its timeout connecting instead of failing on a stale state.
+        ClientCalls.blockingUnaryCall(g.lanes.get(0).channel, GatewayGrpc.getTopologyMethod(),
+            CallOptions.DEFAULT.withWaitForReady()
+                .withDeadlineAfter(probeTimeout.toMillis(), TimeUnit.MILLISECONDS),
+            TopologyRequest.getDefaultInstance());
+        up = true;
+      } catch (RuntimeException e) {
+        log.debug("Zeebe gateway {} probe failed: {}", g.address, e.toString());
+        up = false;
+        // Otherwise gRPC backs reconnects off up to two minutes and failback waits just as long.
+        for (Lane lane : g.lanes) lane.channel.resetConnectBackoff();
+      }
+      if (up != g.healthy) log.info("Zeebe gateway {} is {}", g.address, up ? "UP" : "DOWN");
+      g.healthy = up;
+    }
+    reselect();
+  }
+
+  /** Transport-level failure only: a gateway that answers UNAVAILABLE is up, the brokers behind it are not. */
+  private static boolean unreachable(Status status) {
+    if (status.getCode() != Status.Code.UNAVAILABLE) return false;
+    for (Throwable t = status.getCause(); t != null; t = t.getCause()) {
+      if (t instanceof IOException) return true;
+    }
+    return false;
+  }
+
+  private void markDown(Gateway g, Status status) {
+    if (!g.healthy) return;
+    log.warn("Zeebe gateway {} marked DOWN after {}", g.address, status.getCode());
+    g.healthy = false;
+    reselect();
+  }
+
+  /** First healthy gateway in configured order; with none healthy the current one is kept. */
+  private synchronized void reselect() {
+    for (Gateway g : gateways) {
+      if (g.healthy) {
+        if (g != active) {
+          log.warn("Zeebe client switching gateway {} -> {}", active.address, g.address);
+          failovers.increment();
+          active = g;
+        }
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    prober.shutdownNow();
+    for (Gateway g : gateways) {
+      for (Lane lane : g.lanes) lane.channel.shutdown();
+    }
+    if (callbackExecutor != null) callbackExecutor.shutdown();
+  }
+
+  private static ManagedChannel nettyChannel(ZeebeGatewayProperties props, String address, Executor executor) {
+    NettyChannelBuilder builder = NettyChannelBuilder.forTarget(address)
+        .keepAliveTime(props.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS)
+        .keepAliveTimeout(props.getKeepAliveTimeout().toMillis(), TimeUnit.MILLISECONDS)
+        .maxInboundMessageSize(props.getMaxMessageSize())
+        .flowControlWindow(props.getFlowControlWindow());
+    if (props.isPlaintext()) builder.usePlaintext();
+    else builder.useTransportSecurity();
+    if (executor != null) builder.executor(executor);
+
+    // Same retry policy the Zeebe client puts on its own channel.
+    Map<String, Object> serviceConfig = defaultServiceConfig();
+    if (serviceConfig != null) builder.defaultServiceConfig(serviceConfig).enableRetry();
+    return builder.build();
+  }
+
+  private static Map<String, Object> defaultServiceConfig() {
+    URL resource = ZeebeGatewayRouter.class.getClassLoader().getResource("gateway-service-config.json");
+    if (resource == null) return null;
+    try {
+      return new ObjectMapper().readValue(resource, new TypeReference<Map<String, Object>>() {});
+    } catch (IOException e) {
+      log.warn("Could not read Zeebe gateway service config, pooled channels will not retry", e);
+      return null;
+    }
+  }
+
+  private static final class Gateway {
+    final String address;
+    final List<Lane> lanes = new ArrayList<>();
+    final Counter saturated;
+    final DomainMetrics metrics;
+    final ConcurrentMap<String, Timer> calls = new ConcurrentHashMap<>();
+    volatile boolean healthy = true;
+
+    Gateway(String address, DomainMetrics metrics) {
+      this.address = address;
+      this.metrics = metrics;
+      this.saturated = metrics.counter("clients.zeebe.channel.saturated", "gateway", address);
+    }
+
+    Lane leastLoaded() {
+      Lane best = lanes.get(0);
+      for (int i = 1; i < lanes.size(); i++) {
+        Lane lane = lanes.get(i);
+        if (lane.inFlight.get() < best.inFlight.get()) best = lane;
+      }
+      return best;
+    }
+
+    void record(String method, Status status, long nanos) {
+      String key = method + '/' + status.getCode();
+      Timer timer = calls.get(key);
+      if (timer == null) {
+        timer = calls.computeIfAbsent(key, k -> metrics.timer("clients.zeebe.call",
+            "gateway", address, "method", method, "status", status.getCode().name()));
+      }
+      timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    double inFlight() {
+      int sum = 0;
+      for (Lane lane : lanes) sum += lane.inFlight.get();
+      return sum;
+    }
+  }
+
+  private static final class Lane {
+    final ManagedChannel channel;
+    final AtomicInteger inFlight = new AtomicInteger();
+
+    Lane(ManagedChannel channel) {
+      this.channel = channel;
+    }
+  }
+
+  private final class RoutedCall<ReqT, RespT> extends SimpleForwardingClientCall<ReqT, RespT> {
+    private final Gateway gateway;
+    private final Lane lane;
+    private final String method;
+
+    RoutedCall(ClientCall<ReqT, RespT> delegate, Gateway gateway, Lane lane, String method) {
+      super(delegate);
+      this.gateway = gateway;
+      this.lane = lane;
+      this.method = method;
+    }
+
+    @Override
+    public void start(Listener<RespT> listener, Metadata headers) {
+      long started = System.nanoTime();
+      lane.inFlight.incrementAndGet();
+      try {
+        super.start(new SimpleForwardingClientCallListener<>(listener) {
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            lane.inFlight.decrementAndGet();
+            gateway.record(method, status, System.nanoTime() - started);
+            if (unreachable(status)) markDown(gateway, status);
+            super.onClose(status, trailers);
+          }
+        }, headers);
+      } catch (RuntimeException e) {
+        lane.inFlight.decrementAndGet();
+        throw e;
+      }
+    }
+  }
+
+  private static final class NamedThreadFactory implements ThreadFactory {
+    private final String prefix;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    NamedThreadFactory(String prefix) {
+      this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r, prefix + counter.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    }
+  }
+}
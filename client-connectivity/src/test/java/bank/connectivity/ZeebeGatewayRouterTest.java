@@ -0,0 +1,234 @@
+package bank.connectivity;
+
+import bank.observability.DomainMetrics;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ZeebeGatewayRouter} against stand-in gateways: Netty gRPC servers on loopback that answer Topology
+ * and CompleteJob, so failover sees real connection refusals. Channels come through the package-private
+ * channel factory (plaintext, no retry policy) so every failure reaches the router unmasked.
+ *
+ * The pool-size comparison is a benchmark, not part of the normal build:
+ * `mvn -f client-connectivity/pom.xml test -Dtest=ZeebeGatewayRouterTest -Dbenchmarks=true`
+ */
+class ZeebeGatewayRouterTest {
+
+  private final ScheduledExecutorService delays = Executors.newScheduledThreadPool(4);
+  private final List<AutoCloseable> cleanup = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() throws Exception {
+    for (AutoCloseable c : cleanup) c.close();
+    delays.shutdownNow();
+  }
+
+  @Test
+  void failsOverWhenActiveGatewayIsUnreachableAndFailsBackWhenItRecovers() throws Exception {
+    StandIn primary = standIn(0, 100, 1);
+    StandIn standby = standIn(0, 100, 1);
+    ZeebeGatewayRouter router = router(2, Duration.ofMillis(200), primary.address(), standby.address());
+    GatewayGrpc.GatewayBlockingStub stub = stub(router);
+
+    Burst before = burst(stub, 200);
+    assertEquals(primary.address(), router.activeGateway());
+    assertEquals(200, before.ok);
+
+    primary.stop();
+    Burst down = burst(stub, 200);
+    assertEquals(standby.address(), router.activeGateway(), "ok=" + down.ok + " failed=" + down.failed);
+    // The call that sees the connection close, then the one refused on reconnect, which marks it down.
+    assertTrue(down.failed <= 2, "failed calls: " + down.failed);
+
+    primary.restart();
+    long recovering = System.nanoTime();
+    while (!router.activeGateway().equals(primary.address())) {
+      assertTrue(System.nanoTime() - recovering < TimeUnit.SECONDS.toNanos(5), "no failback within 5 s");
+      Thread.sleep(20);
+    }
+    assertEquals(200, burst(stub, 200).ok);
+  }
+
+  @Test
+  void unavailableAnsweredByTheGatewayDoesNotFailOver() throws Exception {
+    // A reachable gateway returns UNAVAILABLE while a partition has no leader (e.g. during an election).
+    StandIn primary = standIn(0, 100, -1);
+    StandIn standby = standIn(0, 100, 1);
+    ZeebeGatewayRouter router = router(2, Duration.ofSeconds(30), primary.address(), standby.address());
+    GatewayGrpc.GatewayBlockingStub stub = stub(router);
+
+    StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+        () -> stub.completeJob(CompleteJobRequest.getDefaultInstance()));
+    assertEquals(Status.Code.UNAVAILABLE, e.getStatus().getCode());
+    assertEquals(primary.address(), router.activeGateway());
+    assertEquals(0, standby.completed.get());
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+  void poolSizeThroughput() throws Exception {
+    int streamLimit = 16;
+    int callers = 128;
+    long serviceMs = 5;
+    StandIn gateway = standIn(0, streamLimit, serviceMs);
+    System.out.printf("stand-in: MAX_CONCURRENT_STREAMS=%d, service time %d ms, %d concurrent callers%n",
+        streamLimit, serviceMs, callers);
+
+    for (int pool : new int[] {1, 2, 4, 8}) {
+      ZeebeGatewayRouter router = router(pool, Duration.ofSeconds(30), gateway.address());
+      GatewayGrpc.GatewayBlockingStub stub = stub(router);
+      burst(stub, callers); // connect and warm up every channel
+
+      ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+      long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+      ExecutorService callerThreads = Executors.newFixedThreadPool(callers);
+      for (int i = 0; i < callers; i++) {
+        callerThreads.execute(() -> {
+          while (System.nanoTime() < end) {
+            long start = System.nanoTime();
+            stub.completeJob(CompleteJobRequest.getDefaultInstance());
+            latencies.add(System.nanoTime() - start);
+          }
+        });
+      }
+      callerThreads.shutdown();
+      assertTrue(callerThreads.awaitTermination(30, TimeUnit.SECONDS));
+
+      long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+      System.out.printf("channelsPerGateway=%d  throughput=%6.0f calls/s  p50=%5.1f ms  p99=%5.1f ms%n",
+          pool, sorted.length / 3.0, sorted[sorted.length / 2] / 1e6, sorted[(int) (sorted.length * 0.99)] / 1e6);
+    }
+  }
+
+  private ZeebeGatewayRouter router(int channelsPerGateway, Duration probeInterval, String... gateways) {
+    ZeebeGatewayProperties props = new ZeebeGatewayProperties();
+    props.setGateways(Arrays.asList(gateways));
+    props.setChannelsPerGateway(channelsPerGateway);
+    props.setProbeInterval(probeInterval);
+    props.setProbeTimeout(Duration.ofMillis(Math.min(probeInterval.toMillis(), 500)));
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ZeebeGatewayRouter router = new ZeebeGatewayRouter(props, new DomainMetrics(registry, false), registry,
+        (address, executor) -> NettyChannelBuilder.forTarget(address).usePlaintext().build());
+    cleanup.add(0, router);
+    return router;
+  }
+
+  /** Stub over a channel the router never lets connect, like the Zeebe client's own channel. */
+  private GatewayGrpc.GatewayBlockingStub stub(ZeebeGatewayRouter router) {
+    ManagedChannel unused = NettyChannelBuilder.forTarget("localhost:1").usePlaintext().build();
+    cleanup.add(unused::shutdownNow);
+    return GatewayGrpc.newBlockingStub(ClientInterceptors.intercept(unused, router));
+  }
+
+  private static Burst burst(GatewayGrpc.GatewayBlockingStub stub, int calls) {
+    Burst burst = new Burst();
+    for (int i = 0; i < calls; i++) {
+      try {
+        stub.withDeadlineAfter(2, TimeUnit.SECONDS).completeJob(CompleteJobRequest.getDefaultInstance());
+        burst.ok++;
+      } catch (StatusRuntimeException e) {
+        burst.failed++;
+      }
+    }
+    return burst;
+  }
+
+  /** @param serviceMs CompleteJob latency, or negative to answer UNAVAILABLE */
+  private StandIn standIn(int port, int streamLimit, long serviceMs) throws IOException {
+    StandIn standIn = new StandIn(streamLimit, serviceMs);
+    standIn.start(port);
+    cleanup.add(standIn::stop);
+    return standIn;
+  }
+
+  private static final class Burst {
+    int ok;
+    int failed;
+  }
+
+  private final class StandIn {
+    final int streamLimit;
+    final long serviceMs;
+    final AtomicInteger completed = new AtomicInteger();
+    Server server;
+    int port;
+
+    StandIn(int streamLimit, long serviceMs) {
+      this.streamLimit = streamLimit;
+      this.serviceMs = serviceMs;
+    }
+
+    void start(int requestedPort) throws IOException {
+      server = NettyServerBuilder.forAddress(new InetSocketAddress("127.0.0.1", requestedPort))
+          .maxConcurrentCallsPerConnection(streamLimit)
+          .addService(new GatewayGrpc.GatewayImplBase() {
+            @Override
+            public void topology(TopologyRequest request, StreamObserver<TopologyResponse> response) {
+              response.onNext(TopologyResponse.getDefaultInstance());
+              response.onCompleted();
+            }
+
+            @Override
+            public void completeJob(CompleteJobRequest request, StreamObserver<CompleteJobResponse> response) {
+              if (serviceMs < 0) {
+                response.onError(Status.UNAVAILABLE.withDescription("no leader for partition").asRuntimeException());
+                return;
+              }
+              delays.schedule(() -> {
+                completed.incrementAndGet();
+                response.onNext(CompleteJobResponse.getDefaultInstance());
+                response.onCompleted();
+              }, serviceMs, TimeUnit.MILLISECONDS);
+            }
+          })
+          .build()
+          .start();
+      port = server.getPort();
+    }
+
+    void restart() throws IOException {
+      start(port);
+    }
+
+    void stop() throws InterruptedException {
+      server.shutdownNow();
+      server.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    String address() {
+      return "127.0.0.1:" + port;
+    }
+  }
+}
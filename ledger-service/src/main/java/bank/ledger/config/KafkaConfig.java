@@ -7,6 +7,7 @@ import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.apache.kafka.common.serialization.StringSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,10 +18,9 @@ public class KafkaConfig {
   @Bean
   public ProducerFactory<String, Object> producerFactory(org.springframework.boot.autoconfigure.kafka.KafkaProperties props) {
     Map<String, Object> cfg = new HashMap<>(props.buildProducerProperties());
-    cfg.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
-    cfg.put("value.serializer", JsonSerializer.class.getName());
     cfg.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
-    return new DefaultKafkaProducerFactory<>(cfg);
+    // Serializer instances instead of class names, so StartupWarmup can prime the one the producer uses.
+    return new DefaultKafkaProducerFactory<>(cfg, new StringSerializer(), new JsonSerializer<>());
   }
 
   @Bean
@@ -0,0 +1,36 @@
+package bank.ledger.config;
+
+import bank.ledger.domain.LedgerLimits;
+import bank.ledger.integration.KafkaPublisher;
+import bank.observability.FirstRequestMetrics;
+import org.axonframework.commandhandling.CommandBus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Lazy-initialization exclusions for the `fast-startup` profile: Axon (so the ledger aggregate's command
+ * handlers subscribe), the posting limits those handlers resolve and the Kafka publisher. Also counts the
+ * first booking command.
+ */
+@Configuration
+public class StartupConfig {
+
+  @Bean
+  static LazyInitializationExcludeFilter eagerAxonInfrastructure() {
+    return (beanName, definition, beanType) -> beanType != null
+        && (beanType.getName().startsWith("org.axonframework.")
+            || beanType == LedgerLimits.class
+            || beanType == KafkaPublisher.class
+            || beanType == StartupConfig.class);
+  }
+
+  @Autowired
+  public void recordFirstCommand(CommandBus commandBus, FirstRequestMetrics firstRequest) {
+    commandBus.registerHandlerInterceptor((unitOfWork, chain) -> {
+      firstRequest.record("command");
+      return chain.proceed();
+    });
+  }
+}
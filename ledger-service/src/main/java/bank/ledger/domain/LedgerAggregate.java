@@ -2,6 +2,7 @@ package bank.ledger.domain;
 
 import bank.ledger.domain.commands.BookLedgerCommand;
 import bank.ledger.domain.events.LedgerBookedEvent;
+import org.axonframework.commandhandling.CommandExecutionException;
 import org.axonframework.commandhandling.CommandHandler;
 import org.axonframework.eventsourcing.EventSourcingHandler;
 import org.axonframework.modelling.command.AggregateIdentifier;
@@ -22,13 +23,20 @@ public class LedgerAggregate {
   protected LedgerAggregate() {}
 
   @CommandHandler
-  public LedgerAggregate(BookLedgerCommand cmd) {
-    handle(cmd);
+  public LedgerAggregate(BookLedgerCommand cmd, LedgerLimits limits) {
+    handle(cmd, limits);
   }
 
   @CommandHandler
-  public void handle(BookLedgerCommand cmd) {
+  public void handle(BookLedgerCommand cmd, LedgerLimits limits) {
     if (processed.contains(cmd.commandId)) return; // idempotent
+
+    if (!limits.allows(cmd.amount)) {
+      // Over the posting limit, rejected before anything is booked: the only ledger outcome the transfer
+      // process compensates.
+      throw new CommandExecutionException("LEDGER_REJECTED", null, "LEDGER_REJECTED");
+    }
+
     AggregateLifecycle.apply(new LedgerBookedEvent(cmd.transferId, cmd.accountId, cmd.amount, cmd.commandId, cmd.correlationId));
   }
 
@@ -0,0 +1,20 @@
+package bank.ledger.domain;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Posting limits the ledger enforces on bookings; resolved into {@link LedgerAggregate}'s command handlers.
+ *
+ * ledger.maxBookingAmount largest amount booked without manual handling (default 5000)
+ */
+@Component
+public class LedgerLimits {
+
+  @Value("${ledger.maxBookingAmount:5000}")
+  private long maxBookingAmount;
+
+  public boolean allows(long amount) {
+    return amount <= maxBookingAmount;
+  }
+}
@@ -0,0 +1,52 @@
+package bank.ledger.startup;
+
+import bank.connectivity.AxonServerWarmup;
+import bank.ledger.domain.events.LedgerBookedEvent;
+import bank.observability.DomainMetrics;
+import bank.observability.WarmupLifecycle;
+import org.axonframework.axonserver.connector.AxonServerConnectionManager;
+import org.axonframework.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Primes the event serializers, the Kafka producer and the AxonServer connection before command handlers
+ * subscribe (phase and rules: {@link WarmupLifecycle}).
+ */
+@Component
+public class StartupWarmup extends WarmupLifecycle {
+
+  private final Serializer eventSerializer;
+  private final AxonServerConnectionManager axonServer;
+  private final ProducerFactory<String, Object> producerFactory;
+
+  public StartupWarmup(@Qualifier("eventSerializer") Serializer eventSerializer,
+                       AxonServerConnectionManager axonServer,
+                       ProducerFactory<String, Object> producerFactory,
+                       DomainMetrics metrics) {
+    super(metrics);
+    this.eventSerializer = eventSerializer;
+    this.axonServer = axonServer;
+    this.producerFactory = producerFactory;
+  }
+
+  @Override
+  protected void warmUp() {
+    step("serializers", this::primeSerializers);
+    step("kafka", this::primeKafkaProducer);
+    step("axonserver", () -> AxonServerWarmup.awaitConnected(axonServer, timeout()));
+  }
+
+  private void primeSerializers() {
+    LedgerBookedEvent sample = new LedgerBookedEvent("warmup", "warmup", 0L, "warmup", "warmup");
+    eventSerializer.deserialize(eventSerializer.serialize(sample, byte[].class));
+  }
+
+  private void primeKafkaProducer() {
+    // The shared producer KafkaTemplate sends through; creating it configures the value serializer below.
+    producerFactory.createProducer();
+    LedgerBookedEvent sample = new LedgerBookedEvent("warmup", "warmup", 0L, "warmup", "warmup");
+    producerFactory.getValueSerializer().serialize("ledger.events.v1", sample);
+  }
+}
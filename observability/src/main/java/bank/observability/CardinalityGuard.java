@@ -0,0 +1,80 @@
+package bank.observability;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MeterFilter that keeps tag cardinality bounded.
+ *
+ * - Denied keys (per-entity ids such as `account.id`) are dropped from every meter; they belong on spans.
+ * - Any other key keeps at most `maxValues` distinct values per meter name; later values collapse to OTHER.
+ *
+ * Only runs when a meter id is resolved, i.e. once per meter for code that caches its meters.
+ */
+public class CardinalityGuard implements MeterFilter {
+
+  static final String OVERFLOW_VALUE = "OTHER";
+
+  private static final Logger log = LoggerFactory.getLogger(CardinalityGuard.class);
+
+  private final Set<String> deniedKeys;
+  private final int maxValues;
+  private final ConcurrentMap<String, TagValues> seen = new ConcurrentHashMap<>();
+
+  public CardinalityGuard(Set<String> deniedKeys, int maxValues) {
+    this.deniedKeys = Set.copyOf(deniedKeys);
+    this.maxValues = maxValues;
+  }
+
+  @Override
+  public Meter.Id map(Meter.Id id) {
+    boolean changed = false;
+    List<Tag> tags = new ArrayList<>();
+    for (Tag tag : id.getTagsAsIterable()) {
+      if (deniedKeys.contains(tag.getKey())) {
+        changed = true;
+        continue;
+      }
+      String value = admit(id.getName(), tag);
+      if (!value.equals(tag.getValue())) {
+        changed = true;
+        tags.add(Tag.of(tag.getKey(), value));
+      } else {
+        tags.add(tag);
+      }
+    }
+    return changed ? id.replaceTags(tags) : id;
+  }
+
+  private String admit(String meterName, Tag tag) {
+    TagValues tagValues = seen.computeIfAbsent(meterName + '|' + tag.getKey(), k -> new TagValues());
+    if (tagValues.values.contains(tag.getValue())) return tag.getValue();
+
+    // Check-then-add can let a few extra values through under contention; the bound stays approximate.
+    if (tagValues.values.size() >= maxValues) {
+      // Own flag: a real tag value may already be "OTHER", which must not swallow the warning.
+      if (tagValues.overflowed.compareAndSet(false, true)) {
+        log.warn("Tag '{}' of meter '{}' exceeded {} values, further values are reported as {}",
+            tag.getKey(), meterName, maxValues, OVERFLOW_VALUE);
+      }
+      return OVERFLOW_VALUE;
+    }
+    tagValues.values.add(tag.getValue());
+    return tag.getValue();
+  }
+
+  private static final class TagValues {
+    final Set<String> values = ConcurrentHashMap.newKeySet();
+    final AtomicBoolean overflowed = new AtomicBoolean();
+  }
+}
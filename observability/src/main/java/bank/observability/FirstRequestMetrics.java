@@ -0,0 +1,33 @@
+package bank.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes `startup.time.to.first.request`: JVM start until the first real unit of work was handled.
+ * Complements Spring Boot's `application.ready.time`, which stops at readiness.
+ */
+public class FirstRequestMetrics {
+
+  private final MeterRegistry registry;
+  private final AtomicBoolean recorded = new AtomicBoolean();
+
+  public FirstRequestMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  public void record(String source) {
+    // Plain read first so the hot path after the first request is a single volatile load.
+    if (recorded.get() || !recorded.compareAndSet(false, true)) return;
+
+    long millis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    TimeGauge.builder("startup.time.to.first.request", () -> millis, TimeUnit.MILLISECONDS)
+        .description("Time from JVM start until the first request was handled")
+        .tag("source", source)
+        .register(registry);
+  }
+}
@@ -0,0 +1,46 @@
+package bank.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Shared metrics setup picked up by every service that has this jar on the classpath.
+ *
+ * observability.metrics.deniedTags   tag keys never allowed on meters (default: per-entity ids)
+ * observability.metrics.maxTagValues distinct values per meter/tag key before collapsing to OTHER
+ * observability.metrics.histograms   percentile histograms for every DomainMetrics timer/summary (default false:
+ *                                    only meters created with a `percentile*` method publish them)
+ */
+@AutoConfiguration
+@ConditionalOnClass(MeterRegistry.class)
+public class ObservabilityAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public CardinalityGuard cardinalityGuard(
+      @Value("${observability.metrics.deniedTags:account.id,transfer.id,process.instance.key}") String[] deniedTags,
+      @Value("${observability.metrics.maxTagValues:100}") int maxTagValues) {
+    // Not Set.of: it rejects duplicates, and a repeated key in the property is harmless.
+    return new CardinalityGuard(new HashSet<>(Arrays.asList(deniedTags)), maxTagValues);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public DomainMetrics domainMetrics(MeterRegistry registry,
+                                     @Value("${observability.metrics.histograms:false}") boolean histograms) {
+    return new DomainMetrics(registry, histograms);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  public FirstRequestMetrics firstRequestMetrics(MeterRegistry registry) {
+    return new FirstRequestMetrics(registry);
+  }
+}
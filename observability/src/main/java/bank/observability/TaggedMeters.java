@@ -0,0 +1,27 @@
+package bank.observability;
+
+import io.micrometer.core.instrument.Meter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Meters that differ by one tag value (topic, job type, ...), registered on first use and then cached.
+ * Callers must keep the set of values small; {@link CardinalityGuard} is the backstop, not the plan.
+ */
+public final class TaggedMeters<M extends Meter> {
+
+  private final ConcurrentMap<String, M> meters = new ConcurrentHashMap<>();
+  private final Function<String, M> factory;
+
+  TaggedMeters(Function<String, M> factory) {
+    this.factory = factory;
+  }
+
+  public M get(String tagValue) {
+    // get() first: computeIfAbsent locks the bin even when the value is present.
+    M meter = meters.get(tagValue);
+    return meter != null ? meter : meters.computeIfAbsent(tagValue, factory);
+  }
+}
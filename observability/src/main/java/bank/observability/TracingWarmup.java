@@ -0,0 +1,38 @@
+package bank.observability;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Warm-up step for services that trace: resolves the tracer and runs a W3C propagator round trip.
+ * No span is started, so nothing is exported. Separate from {@link WarmupLifecycle} because the
+ * OpenTelemetry API is optional here.
+ */
+public final class TracingWarmup {
+
+  private static final TextMapGetter<Map<String, String>> MAP_GETTER = new TextMapGetter<>() {
+    @Override
+    public Iterable<String> keys(Map<String, String> carrier) {
+      return carrier.keySet();
+    }
+
+    @Override
+    public String get(Map<String, String> carrier, String key) {
+      return carrier.get(key);
+    }
+  };
+
+  private TracingWarmup() {}
+
+  public static void prime(String instrumentationName) {
+    GlobalOpenTelemetry.get().getTracer(instrumentationName);
+    Map<String, String> carrier = new HashMap<>();
+    W3CTraceContextPropagator.getInstance().inject(Context.current(), carrier, Map::put);
+    W3CTraceContextPropagator.getInstance().extract(Context.root(), carrier, MAP_GETTER);
+  }
+}
@@ -0,0 +1,86 @@
+package bank.observability;
+
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base for each service's `StartupWarmup`.
+ *
+ * Runs {@link #warmUp()} once as a {@link SmartLifecycle} in {@link #PHASE}: ahead of Axon's configuration and
+ * the Zeebe client (both DEFAULT_PHASE) and of the web server (DEFAULT_PHASE - 2048), so handlers subscribe and
+ * job pollers open on a warm JVM. Readiness follows ApplicationReadyEvent and so stays OUT_OF_SERVICE until
+ * this is done. Steps are best effort: a failure is logged and counted, it never blocks startup.
+ *
+ * startup.warmup.enabled        run the steps at all (default true)
+ * startup.warmup.timeoutSeconds bound for steps that wait on a remote (default 10)
+ *
+ * Metric: `startup.warmup.duration{step, outcome}`.
+ */
+public abstract class WarmupLifecycle implements SmartLifecycle {
+
+  public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final TaggedMeters<Timer> succeeded;
+  private final TaggedMeters<Timer> failed;
+
+  @Value("${startup.warmup.enabled:true}")
+  private boolean enabled;
+
+  @Value("${startup.warmup.timeoutSeconds:10}")
+  private long timeoutSeconds;
+
+  private volatile boolean running;
+
+  protected WarmupLifecycle(DomainMetrics metrics) {
+    this.succeeded = metrics.timersBy("startup.warmup.duration", "step", "outcome", "success");
+    this.failed = metrics.timersBy("startup.warmup.duration", "step", "outcome", "failure");
+  }
+
+  /** The service's warm-up, as a sequence of {@link #step} calls. */
+  protected abstract void warmUp();
+
+  protected final void step(String name, Runnable work) {
+    long start = System.nanoTime();
+    TaggedMeters<Timer> outcome = succeeded;
+    try {
+      work.run();
+    } catch (RuntimeException e) {
+      outcome = failed;
+      log.warn("Warm-up step '{}' failed, continuing startup: {}", name, e.toString());
+    } finally {
+      outcome.get(name).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  protected final Duration timeout() {
+    return Duration.ofSeconds(timeoutSeconds);
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    if (enabled) warmUp();
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+}
@@ -0,0 +1,102 @@
+package bank.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CardinalityGuardTest {
+
+  private final Logger guardLog = (Logger) LoggerFactory.getLogger(CardinalityGuard.class);
+  private final ListAppender<ILoggingEvent> logged = new ListAppender<>();
+
+  @BeforeEach
+  void captureLog() {
+    logged.start();
+    guardLog.addAppender(logged);
+  }
+
+  @AfterEach
+  void releaseLog() {
+    guardLog.detachAppender(logged);
+  }
+
+  @Test
+  void deniedKeysAreDropped() {
+    MeterRegistry registry = registry(new CardinalityGuard(Set.of("account.id"), 10));
+
+    Counter counter = registry.counter("transfers", "account.id", "acc-1", "outcome", "ok");
+
+    assertNull(counter.getId().getTag("account.id"));
+    assertEquals("ok", counter.getId().getTag("outcome"));
+    // Different ids land on the same meter once the key is gone.
+    assertEquals(counter, registry.counter("transfers", "account.id", "acc-2", "outcome", "ok"));
+  }
+
+  @Test
+  void valuesBeyondTheLimitCollapseToOtherAndWarnOnce() {
+    MeterRegistry registry = registry(new CardinalityGuard(Set.of(), 2));
+
+    for (String topic : new String[] {"t1", "t2", "t3", "t4", "t5"}) {
+      registry.counter("published", "topic", topic).increment();
+    }
+
+    assertEquals(Set.of("t1", "t2", CardinalityGuard.OVERFLOW_VALUE), topics(registry));
+    assertEquals(3.0, registry.counter("published", "topic", CardinalityGuard.OVERFLOW_VALUE).count());
+    assertEquals(1, warnings());
+  }
+
+  @Test
+  void realOtherValueStillWarnsOnOverflow() {
+    MeterRegistry registry = registry(new CardinalityGuard(Set.of(), 2));
+
+    registry.counter("published", "topic", CardinalityGuard.OVERFLOW_VALUE).increment();
+    registry.counter("published", "topic", "t1").increment();
+    registry.counter("published", "topic", "t2").increment();
+
+    // "OTHER" was a real value within the limit; overflow adds to it and is still reported.
+    assertEquals(Set.of(CardinalityGuard.OVERFLOW_VALUE, "t1"), topics(registry));
+    assertEquals(2.0, registry.counter("published", "topic", CardinalityGuard.OVERFLOW_VALUE).count());
+    assertEquals(1, warnings());
+  }
+
+  @Test
+  void duplicateDeniedKeysFromThePropertyAreAccepted() {
+    CardinalityGuard guard = new ObservabilityAutoConfiguration()
+        .cardinalityGuard(new String[] {"account.id", "transfer.id", "account.id"}, 10);
+    MeterRegistry registry = registry(guard);
+
+    Counter counter = registry.counter("transfers", "account.id", "acc-1", "transfer.id", "tr-1");
+
+    assertEquals(0, counter.getId().getTags().size());
+  }
+
+  private static MeterRegistry registry(CardinalityGuard guard) {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    registry.config().meterFilter(guard);
+    return registry;
+  }
+
+  private static Set<String> topics(MeterRegistry registry) {
+    return registry.find("published").counters().stream()
+        .map(c -> c.getId().getTag("topic"))
+        .collect(Collectors.toSet());
+  }
+
+  private long warnings() {
+    return logged.list.stream().filter(e -> e.getLevel() == Level.WARN).count();
+  }
+}
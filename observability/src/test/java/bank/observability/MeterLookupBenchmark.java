@@ -0,0 +1,75 @@
+package bank.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-event cost of the three ways to bump a tagged counter: `registry.counter(name, tags...)` on every event,
+ * a Counter kept in a field, and {@link TaggedMeters#get}. The registry carries the {@link CardinalityGuard}
+ * like in the services.
+ *
+ * Not part of the normal build: `mvn -f observability/pom.xml test -Dtest=MeterLookupBenchmark -Dbenchmarks=true`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MeterLookupBenchmark {
+
+  private MeterRegistry registry;
+  private Counter cached;
+  private TaggedMeters<Counter> tagged;
+
+  @Setup
+  public void setUp() {
+    registry = new SimpleMeterRegistry();
+    registry.config().meterFilter(new CardinalityGuard(Set.of("account.id"), 100));
+    DomainMetrics metrics = new DomainMetrics(registry, false);
+    cached = metrics.counter("bench.events", "service", "bench", "topic", "account.events.v1");
+    tagged = metrics.countersBy("bench.events", "topic", "service", "bench");
+  }
+
+  @Benchmark
+  public void registryLookupPerEvent() {
+    registry.counter("bench.events", "service", "bench", "topic", "account.events.v1").increment();
+  }
+
+  @Benchmark
+  public void cachedCounter() {
+    cached.increment();
+  }
+
+  @Benchmark
+  public void taggedMetersGet() {
+    tagged.get("account.events.v1").increment();
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+  void run() throws Exception {
+    new Runner(new OptionsBuilder()
+        .include(MeterLookupBenchmark.class.getName())
+        .forks(1)
+        .warmupIterations(3)
+        .warmupTime(TimeValue.seconds(1))
+        .measurementIterations(5)
+        .measurementTime(TimeValue.seconds(1))
+        .threads(4)
+        .build()).run();
+  }
+}
@@ -0,0 +1,248 @@
+package bank.worker;
+
+import bank.observability.DomainMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fair executor for activated Zeebe jobs.
+ *
+ * - Jobs are queued per fairness class (the calling API client, see `clientId` set by transfer-api) and
+ *   dispatched with deficit round-robin: each visit a class earns `weight` credits and spends one per
+ *   dispatched job. A noisy client can fill its own queue but only gets its share of the worker threads.
+ * - An optional exclusive key (the account id) limits a key to one job in flight. Later jobs for a busy
+ *   key stay queued in order while other keys of the same class are served. The limit is per scheduler,
+ *   i.e. per worker replica: another replica can activate and run a job for the same key at the same time.
+ * - `maxQueued` bounds queued + running jobs; submit blocks the Zeebe handler thread beyond that,
+ *   so the client stops activating jobs it cannot run before their timeout.
+ *
+ * Metrics: `worker.fair.inflight`, and `worker.fair.queue.depth{client}` and `worker.fair.queue.wait{client}`.
+ * Only classes named in `worker.fairness.weights` get their own `client` value; all others share
+ * {@link #OTHER_CLIENTS}, so the tag stays bounded whatever ids arrive.
+ */
+@Component
+public class FairJobScheduler {
+
+  static final String OTHER_CLIENTS = "other";
+
+  private final MeterRegistry registry;
+  private final DomainMetrics metrics;
+  private final int threads;
+  private final Executor executor;
+  private final Semaphore capacity;
+  private final Map<String, Integer> weights;
+
+  private final Object lock = new Object();
+  private final Map<String, ClassQueue> classes = new HashMap<>();
+  private final Map<String, ClientMeters> meters = new HashMap<>();
+  private final ArrayDeque<ClassQueue> active = new ArrayDeque<>();
+  private final Set<String> busyKeys = new HashSet<>();
+  private int freeSlots;
+
+  public FairJobScheduler(MeterRegistry registry,
+                          DomainMetrics metrics,
+                          @Value("${worker.fairness.threads:8}") int threads,
+                          @Value("${worker.fairness.maxQueued:256}") int maxQueued,
+                          @Value("${worker.fairness.weights:}") String weights) {
+    this(registry, metrics, threads, maxQueued, weights,
+        Executors.newFixedThreadPool(threads, new NamedThreadFactory("fair-job-")));
+  }
+
+  /** Tests pass an executor they step through by hand; `threads` is then only the dispatch limit. */
+  FairJobScheduler(MeterRegistry registry, DomainMetrics metrics, int threads, int maxQueued, String weights,
+                   Executor executor) {
+    this.registry = registry;
+    this.metrics = metrics;
+    this.threads = threads;
+    this.executor = executor;
+    this.capacity = new Semaphore(maxQueued);
+    this.weights = parseWeights(weights);
+    this.freeSlots = threads;
+    Gauge.builder("worker.fair.inflight", this, FairJobScheduler::inflight).register(registry);
+  }
+
+  /**
+   * Queue a job for fair execution.
+   *
+   * @param classKey     fairness class (client id)
+   * @param exclusiveKey at most one job per key runs at a time; null for no limit
+   */
+  public void submit(String classKey, String exclusiveKey, Runnable task) {
+    capacity.acquireUninterruptibly();
+    synchronized (lock) {
+      ClassQueue q = classes.computeIfAbsent(classKey, this::newClassQueue);
+      q.tasks.addLast(new Task(exclusiveKey, task, System.nanoTime()));
+      q.meters.depth++;
+      if (!q.active) {
+        q.active = true;
+        active.addLast(q);
+      }
+      drainLocked();
+    }
+  }
+
+  private void drainLocked() {
+    int idleVisits = 0;
+    while (freeSlots > 0 && !active.isEmpty() && idleVisits < active.size()) {
+      ClassQueue q = active.peekFirst();
+      if (!q.credited) {
+        q.deficit += q.weight;
+        q.credited = true;
+      }
+
+      Task next = q.deficit >= 1 ? q.pollEligible(busyKeys) : null;
+      if (next != null) {
+        q.deficit--;
+        q.dispatchedThisVisit = true;
+        dispatchLocked(q, next);
+        if (!q.tasks.isEmpty()) continue;
+      }
+
+      // Visit over: out of credit, head of line blocked by busy keys, or queue empty.
+      active.pollFirst();
+      idleVisits = q.dispatchedThisVisit ? 0 : idleVisits + 1;
+      q.credited = false;
+      q.dispatchedThisVisit = false;
+      if (q.tasks.isEmpty()) {
+        q.active = false;
+        q.deficit = 0;
+      } else {
+        // Blocked classes keep at most one quantum so they cannot burst after a long stall.
+        q.deficit = Math.min(q.deficit, q.weight);
+        active.addLast(q);
+      }
+    }
+  }
+
+  private void dispatchLocked(ClassQueue q, Task task) {
+    freeSlots--;
+    if (task.exclusiveKey != null) busyKeys.add(task.exclusiveKey);
+    q.meters.depth--;
+    q.meters.wait.record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+
+    executor.execute(() -> {
+      try {
+        task.work.run();
+      } finally {
+        capacity.release();
+        synchronized (lock) {
+          freeSlots++;
+          if (task.exclusiveKey != null) busyKeys.remove(task.exclusiveKey);
+          drainLocked();
+        }
+      }
+    });
+  }
+
+  private ClassQueue newClassQueue(String classKey) {
+    String client = weights.containsKey(classKey) ? classKey : OTHER_CLIENTS;
+    return new ClassQueue(weights.getOrDefault(classKey, 1), meters.computeIfAbsent(client, this::newClientMeters));
+  }
+
+  private ClientMeters newClientMeters(String client) {
+    ClientMeters m = new ClientMeters(metrics.timer("worker.fair.queue.wait", "client", client));
+    Gauge.builder("worker.fair.queue.depth", m, ClientMeters::depth)
+        .tag("client", client)
+        .register(registry);
+    return m;
+  }
+
+  private double inflight() {
+    // Read without the scheduler lock; a slightly stale value is fine for a gauge.
+    return threads - freeSlots;
+  }
+
+  /** Parses `clientA=3,clientB=1`; unlisted clients weigh 1. */
+  private static Map<String, Integer> parseWeights(String spec) {
+    Map<String, Integer> result = new HashMap<>();
+    if (spec == null || spec.isBlank()) return result;
+    for (String entry : spec.split(",")) {
+      String[] kv = entry.trim().split("=");
+      if (kv.length != 2) throw new IllegalArgumentException("INVALID_FAIRNESS_WEIGHT: " + entry);
+      result.put(kv[0].trim(), Math.max(1, Integer.parseInt(kv[1].trim())));
+    }
+    return result;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor instanceof ExecutorService pool) pool.shutdown();
+  }
+
+  private record Task(String exclusiveKey, Runnable work, long enqueuedAt) {}
+
+  private static final class ClassQueue {
+    final int weight;
+    final ClientMeters meters;
+    final ArrayDeque<Task> tasks = new ArrayDeque<>();
+    int deficit;
+    boolean active;
+    boolean credited;
+    boolean dispatchedThisVisit;
+
+    ClassQueue(int weight, ClientMeters meters) {
+      this.weight = weight;
+      this.meters = meters;
+    }
+
+    /** First task whose key is free. Tasks of a busy key are all skipped, so per-key order is kept. */
+    Task pollEligible(Set<String> busyKeys) {
+      for (Iterator<Task> it = tasks.iterator(); it.hasNext(); ) {
+        Task t = it.next();
+        if (t.exclusiveKey == null || !busyKeys.contains(t.exclusiveKey)) {
+          it.remove();
+          return t;
+        }
+      }
+      return null;
+    }
+  }
+
+  /** Meters of one `client` tag value, shared by every class in it; updated under the scheduler lock. */
+  private static final class ClientMeters {
+    final Timer wait;
+    int depth;
+
+    ClientMeters(Timer wait) {
+      this.wait = wait;
+    }
+
+    double depth() {
+      return depth; // unlocked read, see inflight()
+    }
+  }
+
+  private static final class NamedThreadFactory implements ThreadFactory {
+    private final String prefix;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    NamedThreadFactory(String prefix) {
+      this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r, prefix + counter.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    }
+  }
+}
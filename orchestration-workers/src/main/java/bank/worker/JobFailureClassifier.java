@@ -0,0 +1,60 @@
+package bank.worker;
+
+import bank.observability.DomainMetrics;
+import bank.observability.TaggedMeters;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.spring.client.exception.ZeebeBpmnError;
+import io.micrometer.core.instrument.Counter;
+import org.axonframework.commandhandling.CommandExecutionException;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Decides how a failed Axon command ends its Zeebe job.
+ *
+ * - business: the aggregate rejected the command (e.g. INSUFFICIENT_BALANCE). Retrying cannot help,
+ *   so the job ends with a BPMN error carrying the code and the process takes its boundary path.
+ * - transient: timeouts, AxonServer/gateway hiccups. The exception is rethrown and Zeebe retries;
+ *   once retries run out Zeebe raises an incident. The command may have been applied, so the outcome
+ *   is unknown and never turned into a BPMN error (compensating it could credit money twice).
+ *
+ * Every classification increments `worker.job.failures{job.type, class}`.
+ */
+@Component
+public class JobFailureClassifier {
+
+  // Aggregates use upper-snake error codes as messages; AxonServer may drop details but keeps the message.
+  private static final Pattern ERROR_CODE = Pattern.compile("[A-Z][A-Z0-9_]+");
+
+  private final TaggedMeters<Counter> business;
+  private final TaggedMeters<Counter> transientFailures;
+
+  public JobFailureClassifier(DomainMetrics metrics) {
+    this.business = metrics.countersBy("worker.job.failures", "job.type", "class", "business");
+    this.transientFailures = metrics.countersBy("worker.job.failures", "job.type", "class", "transient");
+  }
+
+  /** @return the exception the job handler should throw */
+  public RuntimeException classify(ActivatedJob job, RuntimeException failure) {
+    String businessCode = businessCode(failure);
+    if (businessCode != null) {
+      business.get(job.getType()).increment();
+      return new ZeebeBpmnError(businessCode, failure.getMessage());
+    }
+
+    transientFailures.get(job.getType()).increment();
+    return failure;
+  }
+
+  private static String businessCode(Throwable failure) {
+    for (Throwable t = failure; t != null; t = t.getCause()) {
+      if (t instanceof CommandExecutionException cee) {
+        Object details = cee.getDetails().orElse(null);
+        if (details instanceof String code && !code.isBlank()) return code;
+        if (cee.getMessage() != null && ERROR_CODE.matcher(cee.getMessage()).matches()) return cee.getMessage();
+      }
+    }
+    return null;
+  }
+}
@@ -1,9 +1,17 @@
 package bank.worker;
 
+import bank.account.domain.commands.CreditAccountCommand;
 import bank.account.domain.commands.DebitAccountCommand;
 import bank.ledger.domain.commands.BookLedgerCommand;
+import bank.observability.DomainMetrics;
+import bank.observability.FirstRequestMetrics;
+import bank.observability.TaggedMeters;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.spring.client.annotation.JobWorker;
+import io.camunda.zeebe.spring.client.exception.ZeebeBpmnError;
+import io.micrometer.core.instrument.Timer;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.Span;
@@ -15,10 +23,13 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Zeebe workers that call Axon command side.
@@ -27,29 +38,50 @@ import java.util.Map;
  * - Use the OpenTelemetry Java agent for auto-instrumentation + OTLP export.
  * - Propagate W3C trace context through Zeebe variables via a `traceparent` field.
  * - Add domain attributes: transfer.id, process.instance.key to make Tempo/TraceQL searches easy.
+ *
+ * Failure strategy: see {@link JobFailureClassifier}. Business rejections end the job with a BPMN error
+ * immediately (LEDGER_REJECTED makes the process credit the account back); transient failures are retried
+ * and end in an incident once retries run out.
+ *
+ * Scheduling: handlers only hand the job to {@link FairJobScheduler} (per-client fair queues, one in-flight
+ * command per account within this replica) and return; the job is completed, failed or errored from the scheduler thread.
  */
 @Component
 public class ZeebeAxonWorkers {
 
+  private static final Logger log = LoggerFactory.getLogger(ZeebeAxonWorkers.class);
+
   private static final String ATTR_TRANSFER_ID = "transfer.id";
   private static final String ATTR_PROCESS_INSTANCE_KEY = "process.instance.key";
   private static final String ATTR_ZEEBE_JOB_TYPE = "zeebe.job.type";
+  // Instances started before transfer-api passed the client id.
+  private static final String UNKNOWN_CLIENT = "unknown";
 
   private final CommandGateway commandGateway;
+  private final JobFailureClassifier failures;
+  private final FairJobScheduler scheduler;
+  private final FirstRequestMetrics firstRequest;
+  private final TaggedMeters<Timer> jobDuration;
   private final Tracer tracer;
 
-  public ZeebeAxonWorkers(CommandGateway commandGateway) {
+  public ZeebeAxonWorkers(CommandGateway commandGateway, JobFailureClassifier failures, FairJobScheduler scheduler,
+                          FirstRequestMetrics firstRequest, DomainMetrics metrics) {
     this.commandGateway = commandGateway;
+    this.failures = failures;
+    this.scheduler = scheduler;
+    this.firstRequest = firstRequest;
+    this.jobDuration = metrics.percentileTimersBy("worker.job.duration", "job.type");
 
     // With the Java agent, GlobalOpenTelemetry is provided by the agent.
     OpenTelemetry otel = GlobalOpenTelemetry.get();
     this.tracer = otel.getTracer("orchestration-workers");
   }
 
-  @JobWorker(type = "orchestration.account.debit", autoComplete = true)
-  public void debit(ActivatedJob job) {
-    runWithTrace(job, () -> {
-      String accountId = (String) job.getVariablesAsMap().get("accountId");
+  @JobWorker(type = "orchestration.account.debit", autoComplete = false)
+  public void debit(JobClient client, ActivatedJob job) {
+    // One in-flight debit per account: parallel debits on a hot aggregate only end in optimistic-lock conflicts.
+    String accountId = (String) job.getVariablesAsMap().get("accountId");
+    scheduler.submit(clientId(job), accountId, () -> runAndComplete(client, job, () -> {
       Number amount = (Number) job.getVariablesAsMap().get("amount");
       String transferId = (String) job.getVariablesAsMap().get("transferId");
 
@@ -64,12 +96,15 @@ public class ZeebeAxonWorkers {
           correlationId,
           transferId
       ));
-    });
+    }));
   }
 
-  @JobWorker(type = "orchestration.ledger.book", autoComplete = true)
-  public void book(ActivatedJob job) {
-    runWithTrace(job, () -> {
+  @JobWorker(type = "orchestration.ledger.book", autoComplete = false)
+  public void book(JobClient client, ActivatedJob job) {
+    // Ledger aggregates are per transfer, so bookings need no per-account limit.
+    // Only LEDGER_REJECTED leads to compensation; a booking that keeps timing out may have been applied,
+    // so exhausted retries end in an incident to reconcile, never in a credit.
+    scheduler.submit(clientId(job), null, () -> runAndComplete(client, job, () -> {
       String transferId = (String) job.getVariablesAsMap().get("transferId");
       String accountId = (String) job.getVariablesAsMap().get("accountId");
       Number amount = (Number) job.getVariablesAsMap().get("amount");
@@ -84,10 +119,62 @@ public class ZeebeAxonWorkers {
           commandId,
           correlationId
       ));
-    });
+    }));
+  }
+
+  @JobWorker(type = "orchestration.account.credit", autoComplete = false)
+  public void credit(JobClient client, ActivatedJob job) {
+    // Credits hit the same account aggregate as debits, so they share the per-account limit.
+    String accountId = (String) job.getVariablesAsMap().get("accountId");
+    scheduler.submit(clientId(job), accountId, () -> runAndComplete(client, job, () -> {
+      Number amount = (Number) job.getVariablesAsMap().get("amount");
+      String transferId = (String) job.getVariablesAsMap().get("transferId");
+
+      String commandId = String.valueOf(job.getKey());
+      String correlationId = String.valueOf(job.getProcessInstanceKey());
+
+      commandGateway.sendAndWait(new CreditAccountCommand(
+          accountId,
+          amount == null ? 0L : amount.longValue(),
+          commandId,
+          correlationId,
+          transferId
+      ));
+    }));
+  }
+
+  /** Fairness class: the API client that started the transfer (set by transfer-api). */
+  private static String clientId(ActivatedJob job) {
+    Object clientId = job.getVariablesAsMap().get("clientId");
+    return clientId instanceof String id && !id.isBlank() ? id : UNKNOWN_CLIENT;
+  }
+
+  /** Runs on a scheduler thread and reports the outcome to Zeebe, since autoComplete is off. */
+  private void runAndComplete(JobClient client, ActivatedJob job, Runnable work) {
+    FinalCommandStep<?> outcome;
+    long start = System.nanoTime();
+    try {
+      runWithTrace(job, work);
+      outcome = client.newCompleteCommand(job.getKey());
+    } catch (ZeebeBpmnError e) {
+      outcome = client.newThrowErrorCommand(job.getKey()).errorCode(e.getErrorCode()).errorMessage(e.getErrorMessage());
+    } catch (RuntimeException e) {
+      outcome = client.newFailCommand(job.getKey())
+          .retries(Math.max(job.getRetries() - 1, 0))
+          .errorMessage(String.valueOf(e.getMessage()));
+    }
+    jobDuration.get(job.getType()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+    try {
+      outcome.send().join();
+    } catch (RuntimeException e) {
+      // Job timed out or was cancelled meanwhile; Zeebe will hand it out again if it is still open.
+      log.warn("Could not report outcome of job {} ({}): {}", job.getKey(), job.getType(), e.toString());
+    }
   }
 
   private void runWithTrace(ActivatedJob job, Runnable work) {
+    firstRequest.record("job");
     Map<String, Object> vars = job.getVariablesAsMap();
     String transferId = (String) vars.get("transferId");
     Object processInstanceKey = vars.get("processInstanceKey");
@@ -106,10 +193,11 @@ public class ZeebeAxonWorkers {
     try (Scope ignored = span.makeCurrent()) {
       work.run();
       span.setStatus(StatusCode.OK);
-    } catch (Exception e) {
+    } catch (RuntimeException e) {
+      RuntimeException outcome = failures.classify(job, e);
       span.recordException(e);
       span.setStatus(StatusCode.ERROR);
-      throw e;
+      throw outcome;
     } finally {
       span.end();
     }
@@ -0,0 +1,22 @@
+package bank.worker.config;
+
+import bank.worker.ZeebeAxonWorkers;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps Axon and Zeebe infrastructure plus the `@JobWorker` bean eager under the `fast-startup`
+ * profile's lazy initialization; a deferred worker bean would never open its job pollers.
+ */
+@Configuration
+public class StartupConfig {
+
+  @Bean
+  static LazyInitializationExcludeFilter eagerWorkerInfrastructure() {
+    return (beanName, definition, beanType) -> beanType != null
+        && (beanType.getName().startsWith("org.axonframework.")
+            || beanType.getName().startsWith("io.camunda.")
+            || beanType == ZeebeAxonWorkers.class);
+  }
+}
@@ -0,0 +1,60 @@
+package bank.worker.startup;
+
+import bank.account.domain.commands.CreditAccountCommand;
+import bank.account.domain.commands.DebitAccountCommand;
+import bank.connectivity.AxonServerWarmup;
+import bank.ledger.domain.commands.BookLedgerCommand;
+import bank.observability.DomainMetrics;
+import bank.observability.TracingWarmup;
+import bank.observability.WarmupLifecycle;
+import io.camunda.zeebe.client.ZeebeClient;
+import org.axonframework.axonserver.connector.AxonServerConnectionManager;
+import org.axonframework.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primes the command serializer, the OTel tracer/propagator and both gRPC channels (Zeebe gateway,
+ * AxonServer) before `@JobWorker` pollers open (phase and rules: {@link WarmupLifecycle}).
+ */
+@Component
+public class StartupWarmup extends WarmupLifecycle {
+
+  private final Serializer messageSerializer;
+  private final AxonServerConnectionManager axonServer;
+  private final ZeebeClient zeebeClient;
+
+  public StartupWarmup(@Qualifier("messageSerializer") Serializer messageSerializer,
+                       AxonServerConnectionManager axonServer,
+                       ZeebeClient zeebeClient,
+                       DomainMetrics metrics) {
+    super(metrics);
+    this.messageSerializer = messageSerializer;
+    this.axonServer = axonServer;
+    this.zeebeClient = zeebeClient;
+  }
+
+  @Override
+  protected void warmUp() {
+    step("serializers", this::primeSerializers);
+    step("otel", () -> TracingWarmup.prime("orchestration-workers"));
+    step("zeebe", this::primeZeebe);
+    step("axonserver", () -> AxonServerWarmup.awaitConnected(axonServer, timeout()));
+  }
+
+  private void primeSerializers() {
+    Object debit = new DebitAccountCommand("warmup", 0L, "warmup", "warmup", "warmup");
+    Object book = new BookLedgerCommand("warmup", "warmup", 0L, "warmup", "warmup");
+    Object credit = new CreditAccountCommand("warmup", 0L, "warmup", "warmup", "warmup");
+    // Serialize only: this service sends these commands, and XStream's type allow-list rejects reading them back.
+    messageSerializer.serialize(debit, byte[].class);
+    messageSerializer.serialize(book, byte[].class);
+    messageSerializer.serialize(credit, byte[].class);
+  }
+
+  private void primeZeebe() {
+    zeebeClient.newTopologyRequest().send().join(timeout().toSeconds(), TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,163 @@
+package bank.worker;
+
+import bank.observability.DomainMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FairJobSchedulerTest {
+
+  private final ManualExecutor executor = new ManualExecutor();
+  private final List<String> ran = new ArrayList<>();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void weightedClientGetsItsShareOfSlots() {
+    FairJobScheduler scheduler = scheduler(1, 100, "a=3,b=1");
+    for (int i = 1; i <= 7; i++) submit(scheduler, "a", null, "a" + i);
+    for (int i = 1; i <= 3; i++) submit(scheduler, "b", null, "b" + i);
+
+    executor.runAll();
+
+    // a1 was dispatched on its own before b queued anything; from then on three of a per one of b.
+    assertEquals(List.of("a1", "a2", "a3", "a4", "b1", "a5", "a6", "a7", "b2", "b3"), ran);
+  }
+
+  @Test
+  void busyAccountDoesNotBlockOtherAccountsOfTheClient() {
+    FairJobScheduler scheduler = scheduler(2, 100, "");
+    submit(scheduler, "t", "acc-1", "x1");
+    submit(scheduler, "t", "acc-1", "x2");
+    submit(scheduler, "t", "acc-2", "y1");
+
+    // x2 waits behind the running x1; y1 takes the second slot although it was queued later.
+    assertEquals(2, executor.pending());
+    executor.runNext();
+    executor.runNext();
+    assertEquals(List.of("x1", "y1"), ran);
+
+    executor.runAll();
+    assertEquals(List.of("x1", "y1", "x2"), ran);
+  }
+
+  @Test
+  void drainStopsWhenEveryQueuedJobIsBlocked() {
+    FairJobScheduler scheduler = scheduler(3, 100, "");
+    submit(scheduler, "a", "acc-1", "a1");
+    submit(scheduler, "b", "acc-2", "b1");
+
+    // A slot is free but both heads wait on busy accounts: submit must return instead of cycling the classes.
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      submit(scheduler, "a", "acc-1", "a2");
+      submit(scheduler, "b", "acc-2", "b2");
+    });
+    assertEquals(2, executor.pending());
+
+    executor.runAll();
+    assertEquals(List.of("a1", "b1", "a2", "b2"), ran);
+  }
+
+  @Test
+  void submitBlocksOnceMaxQueuedIsReached() throws Exception {
+    FairJobScheduler scheduler = scheduler(1, 2, "");
+    submit(scheduler, "t", null, "j1");
+    submit(scheduler, "t", null, "j2");
+
+    CountDownLatch submitted = new CountDownLatch(1);
+    Thread producer = new Thread(() -> {
+      submit(scheduler, "t", null, "j3");
+      submitted.countDown();
+    });
+    producer.start();
+
+    assertFalse(submitted.await(200, TimeUnit.MILLISECONDS), "third job must wait for capacity");
+    executor.runNext(); // j1 completes and releases its permit
+    assertTrue(submitted.await(5, TimeUnit.SECONDS));
+    producer.join();
+
+    executor.runAll();
+    assertEquals(List.of("j1", "j2", "j3"), ran);
+  }
+
+  @Test
+  void unlistedClientsShareTheOtherMetricTag() {
+    FairJobScheduler scheduler = scheduler(1, 100, "acme=2");
+    submit(scheduler, "acme", null, "a1");
+    submit(scheduler, "acme", null, "a2");
+    submit(scheduler, "c-17", null, "x1");
+    submit(scheduler, "c-42", null, "y1");
+
+    assertEquals(Set.of("acme", FairJobScheduler.OTHER_CLIENTS), clientTags());
+    assertEquals(1.0, depth("acme"));
+    assertEquals(2.0, depth(FairJobScheduler.OTHER_CLIENTS));
+
+    // The shared tag only affects metrics; acme's weight still decides dispatch order.
+    executor.runAll();
+    assertEquals(List.of("a1", "a2", "x1", "y1"), ran);
+    assertEquals(0.0, depth(FairJobScheduler.OTHER_CLIENTS));
+    assertEquals(2, registry.get("worker.fair.queue.wait").tag("client", FairJobScheduler.OTHER_CLIENTS).timer().count());
+  }
+
+  private Set<String> clientTags() {
+    return registry.find("worker.fair.queue.depth").gauges().stream()
+        .map(g -> g.getId().getTag("client"))
+        .collect(Collectors.toSet());
+  }
+
+  private double depth(String client) {
+    return registry.get("worker.fair.queue.depth").tag("client", client).gauge().value();
+  }
+
+  private FairJobScheduler scheduler(int threads, int maxQueued, String weights) {
+    return new FairJobScheduler(registry, new DomainMetrics(registry, false), threads, maxQueued, weights, executor);
+  }
+
+  private void submit(FairJobScheduler scheduler, String client, String account, String name) {
+    scheduler.submit(client, account, () -> {
+      synchronized (ran) {
+        ran.add(name);
+      }
+    });
+  }
+
+  /** Holds dispatched jobs until the test runs them, on the test thread. */
+  private static final class ManualExecutor implements Executor {
+    private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+
+    @Override
+    public synchronized void execute(Runnable command) {
+      queue.addLast(command);
+    }
+
+    synchronized int pending() {
+      return queue.size();
+    }
+
+    void runNext() {
+      Runnable next;
+      synchronized (this) {
+        next = queue.pollFirst();
+      }
+      if (next == null) throw new IllegalStateException("nothing dispatched");
+      next.run();
+    }
+
+    void runAll() {
+      while (pending() > 0) runNext();
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package bank.transferapi.config;
+
+import bank.transferapi.IdempotencyStore;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps the Zeebe client infrastructure and the request path (controller, filters, idempotency store) eager
+ * under the `fast-startup` profile's lazy initialization: the gateway channel is built before readiness, and
+ * the first `POST /transfers` does not pay for creating the controller (tracer lookup, timer registration).
+ */
+@Configuration
+public class StartupConfig {
+
+  @Bean
+  static LazyInitializationExcludeFilter eagerRequestPath() {
+    return (beanName, definition, beanType) -> beanType != null
+        && (beanType.getName().startsWith("io.camunda.")
+            || beanType.getName().startsWith("bank.transferapi.web.")
+            || beanType == IdempotencyStore.class);
+  }
+}
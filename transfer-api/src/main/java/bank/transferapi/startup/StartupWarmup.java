@@ -0,0 +1,53 @@
+package bank.transferapi.startup;
+
+import bank.observability.DomainMetrics;
+import bank.observability.TracingWarmup;
+import bank.observability.WarmupLifecycle;
+import bank.transferapi.dto.CreateTransferRequest;
+import bank.transferapi.dto.TransferResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.client.ZeebeClient;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primes the JSON (de)serializers for the transfer DTOs, the OTel tracer/propagator and the Zeebe gateway
+ * channel before the web server accepts the first request (phase and rules: {@link WarmupLifecycle}).
+ */
+@Component
+public class StartupWarmup extends WarmupLifecycle {
+
+  private final ObjectMapper objectMapper;
+  private final ZeebeClient zeebeClient;
+
+  public StartupWarmup(ObjectMapper objectMapper, ZeebeClient zeebeClient, DomainMetrics metrics) {
+    super(metrics);
+    this.objectMapper = objectMapper;
+    this.zeebeClient = zeebeClient;
+  }
+
+  @Override
+  protected void warmUp() {
+    step("serializers", this::primeSerializers);
+    step("otel", () -> TracingWarmup.prime("transfer-api"));
+    step("zeebe", this::primeZeebe);
+  }
+
+  private void primeSerializers() {
+    try {
+      String req = objectMapper.writeValueAsString(new CreateTransferRequest("warmup", 0L));
+      objectMapper.readValue(req, CreateTransferRequest.class);
+      String resp = objectMapper.writeValueAsString(new TransferResponse("warmup", 0L));
+      objectMapper.readValue(resp, TransferResponse.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void primeZeebe() {
+    zeebeClient.newTopologyRequest().send().join(timeout().toSeconds(), TimeUnit.SECONDS);
+  }
+}
@@ -9,19 +9,29 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Auth placeholder: requires X-API-Key header.
+ * Auth placeholder: requires an X-API-Key header holding one of the configured client keys, and exposes the
+ * client id as request attribute {@link #CLIENT_ID}.
  * Production: OAuth2/JWT/mTLS.
+ *
+ * security.apiKeys `clientId=key` pairs, e.g. "demo=demo-key,partner=partner-key"
  */
 @Component
 public class AuthFilter extends OncePerRequestFilter {
 
+  public static final String CLIENT_ID = "bank.transferapi.clientId";
+
   @Value("${security.apiKeyHeader:X-API-Key}")
   private String header;
 
-  @Value("${security.apiKeyValue:demo-key}")
-  private String value;
+  private final Map<String, String> clientsByKey;
+
+  public AuthFilter(@Value("${security.apiKeys:demo=demo-key}") String apiKeys) {
+    this.clientsByKey = parseKeys(apiKeys);
+  }
 
   @Override
   protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -34,11 +44,25 @@ public class AuthFilter extends OncePerRequestFilter {
       throws ServletException, IOException {
 
     String provided = request.getHeader(header);
-    if (provided == null || !provided.equals(value)) {
+    String clientId = provided == null ? null : clientsByKey.get(provided);
+    if (clientId == null) {
       response.setStatus(401);
       response.getWriter().write("Unauthorized");
       return;
     }
+    request.setAttribute(CLIENT_ID, clientId);
     filterChain.doFilter(request, response);
   }
+
+  /** Parses `clientA=keyA,clientB=keyB` into key -> client id. */
+  private static Map<String, String> parseKeys(String spec) {
+    Map<String, String> result = new HashMap<>();
+    if (spec == null || spec.isBlank()) return result;
+    for (String entry : spec.split(",")) {
+      String[] kv = entry.trim().split("=");
+      if (kv.length != 2) throw new IllegalArgumentException("INVALID_API_KEY_ENTRY: " + entry);
+      result.put(kv[1].trim(), kv[0].trim());
+    }
+    return result;
+  }
 }
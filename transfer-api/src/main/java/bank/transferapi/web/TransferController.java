@@ -3,8 +3,11 @@ package bank.transferapi.web;
 import bank.transferapi.IdempotencyStore;
 import bank.transferapi.dto.CreateTransferRequest;
 import bank.transferapi.dto.TransferResponse;
+import bank.observability.DomainMetrics;
+import bank.observability.FirstRequestMetrics;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.api.response.ProcessInstanceEvent;
+import io.micrometer.core.instrument.Timer;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.Span;
@@ -25,11 +28,17 @@ public class TransferController {
 
   private final ZeebeClient zeebeClient;
   private final IdempotencyStore idem;
+  private final FirstRequestMetrics firstRequest;
+  private final Timer processStart;
   private final Tracer tracer;
 
-  public TransferController(ZeebeClient zeebeClient, IdempotencyStore idem) {
+  public TransferController(ZeebeClient zeebeClient, IdempotencyStore idem, FirstRequestMetrics firstRequest,
+                            DomainMetrics metrics) {
     this.zeebeClient = zeebeClient;
     this.idem = idem;
+    this.firstRequest = firstRequest;
+    // account.id stays a span attribute only; the shared CardinalityGuard drops it from meters anyway.
+    this.processStart = metrics.percentileTimer("transfer.process.start", "process", "MoneyTransferProcess");
     OpenTelemetry otel = GlobalOpenTelemetry.get();
     this.tracer = otel.getTracer("transfer-api");
   }
@@ -40,8 +49,15 @@ public class TransferController {
   @PostMapping("/transfers")
   public ResponseEntity<TransferResponse> create(
       @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+      @RequestAttribute(AuthFilter.CLIENT_ID) String clientId,
       @RequestBody CreateTransferRequest req
   ) {
+    firstRequest.record("http");
+
+    if (req.accountId() == null || req.accountId().isBlank() || req.amount() <= 0) {
+      return ResponseEntity.badRequest().build();
+    }
+
     // If key provided and already processed -> return same response (202 Accepted)
     if (idempotencyKey != null && !idempotencyKey.isBlank()) {
       Optional<TransferResponse> cached = idem.get(idempotencyKey);
@@ -65,18 +81,20 @@ public class TransferController {
         vars.put("transferId", transferId);
         vars.put("accountId", req.accountId());
         vars.put("amount", req.amount());
+        // Workers queue jobs per calling client (FairJobScheduler).
+        vars.put("clientId", clientId);
         W3CTraceContextPropagator.getInstance().inject(
             io.opentelemetry.context.Context.current(),
             vars,
             (TextMapSetter<Map<String, Object>>) (carrier, key, value) -> carrier.put(key, value)
         );
 
-        ProcessInstanceEvent instance = zeebeClient.newCreateInstanceCommand()
+        ProcessInstanceEvent instance = processStart.record(() -> zeebeClient.newCreateInstanceCommand()
             .bpmnProcessId("MoneyTransferProcess")
             .latestVersion()
             .variables(vars)
             .send()
-            .join();
+            .join());
 
         TransferResponse resp = new TransferResponse(transferId, instance.getProcessInstanceKey());
 